@@ -0,0 +1,216 @@
+/**
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.nebula.hollow
+
+import org.gradle.testkit.runner.BuildResult
+import org.gradle.testkit.runner.GradleRunner
+import org.gradle.testkit.runner.TaskOutcome
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.file.Files
+import java.nio.file.attribute.BasicFileAttributes
+
+/**
+ * Measures the plugin against synthetic data models of growing size.
+ *
+ * Run with {@code ./gradlew benchmark}; sizes and model shape are tuned with {@code -Dbenchmark.*} properties,
+ * see the readme. Results are written to {@code build/reports/benchmark/results.csv}.
+ */
+@Subject(ApiGeneratorTask)
+class ApiGeneratorBenchmarkSpec extends Specification {
+
+    static final List<Integer> TYPE_COUNTS = System.getProperty('benchmark.typeCounts', '10,100,1000,5000')
+        .split(',')*.trim()*.toInteger()
+    static final int NESTING_DEPTH = Integer.getInteger('benchmark.nestingDepth', 3)
+    static final boolean COLLECTIONS = Boolean.parseBoolean(System.getProperty('benchmark.collections', 'true'))
+    static final boolean PRIMARY_KEYS = Boolean.parseBoolean(System.getProperty('benchmark.primaryKeys', 'true'))
+    static final int WARMUPS = Integer.getInteger('benchmark.warmups', 1)
+    static final int ITERATIONS = Integer.getInteger('benchmark.iterations', 3)
+    static final String JVM_ARGS = System.getProperty('benchmark.jvmArgs', '-Xmx2g')
+
+    static final String GENERATE_TASK = ':generateHollowConsumerApi'
+
+    @Shared
+    File projectsDir = new File(System.getProperty('benchmark.projectsDir', 'build/benchmark-projects'))
+
+    @Shared
+    File results
+
+    def setupSpec() {
+        File reportDir = new File(System.getProperty('benchmark.reportDir', 'build/reports/benchmark'))
+        reportDir.mkdirs()
+        results = new File(reportDir, 'results.csv')
+        results.text = 'types,scenario,outcome,wallTimeMs,taskTimeMs,filesWritten,heapPeakMb,heapCommittedMb\n'
+    }
+
+    def '#scenario with #typeCount types'() {
+        given:
+        SyntheticModel model = new SyntheticModel(typeCount, NESTING_DEPTH, COLLECTIONS, PRIMARY_KEYS)
+        File projectDir = new File(projectsDir, "types-${typeCount}")
+        model.writeTo(projectDir, JVM_ARGS)
+        scenario.prepare(this, projectDir)
+        List<Measurement> measurements = []
+
+        when:
+        (WARMUPS + ITERATIONS).times { iteration ->
+            scenario.beforeIteration(this, model, projectDir, iteration)
+            Measurement measurement = measure(model, projectDir, scenario.arguments)
+            if (iteration >= WARMUPS) {
+                measurements << measurement
+            }
+        }
+
+        then:
+        measurements.size() == ITERATIONS
+        measurements.every { it.outcome == scenario.expectedOutcome.name() }
+
+        cleanup:
+        measurements.each { measurement ->
+            results << "${typeCount},${scenario.name().toLowerCase()},${measurement}\n"
+        }
+        println "${scenario} with ${typeCount} types: median wall time ${median(measurements*.wallTimeMs)} ms, " +
+            "median task time ${median(measurements*.taskTimeMs)} ms, " +
+            "max peak heap ${measurements*.heapPeakMb.max()} MB"
+
+        where:
+        [typeCount, scenario] << [TYPE_COUNTS, Scenario.values().toList()].combinations()
+    }
+
+    BuildResult runBuild(File projectDir, List<String> arguments) {
+        GradleRunner.create()
+            .withProjectDir(projectDir)
+            .withPluginClasspath()
+            .withArguments(arguments + '--stacktrace')
+            .build()
+    }
+
+    private Measurement measure(SyntheticModel model, File projectDir, List<String> arguments) {
+        File apiDir = model.apiDirectory(projectDir)
+        Map<String, String> filesBefore = listFiles(apiDir)
+
+        long start = System.nanoTime()
+        BuildResult result = runBuild(projectDir, arguments)
+        long wallTimeMs = (System.nanoTime() - start).intdiv(1_000_000)
+
+        int filesWritten = listFiles(apiDir).count { path, state -> filesBefore[path] != state }
+
+        new Measurement(
+            outcome: result.task(GENERATE_TASK)?.outcome?.name(),
+            wallTimeMs: wallTimeMs,
+            taskTimeMs: metric(result, 'taskTimeMs'),
+            filesWritten: filesWritten,
+            heapPeakMb: metric(result, 'heapPeakMb'),
+            heapCommittedMb: metric(result, 'heapCommittedMb')
+        )
+    }
+
+    /**
+     * File key and last modified time by path, compared before and after a build to count the files it wrote.
+     * The file key tells files that were deleted and written again within the timestamp granularity of the
+     * filesystem apart, as a clean build does.
+     */
+    private static Map<String, String> listFiles(File dir) {
+        Map<String, String> files = [:]
+        if (dir.exists()) {
+            dir.eachFileRecurse { file ->
+                if (file.file) {
+                    BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes)
+                    files[file.absolutePath] = "${attributes.fileKey()}:${attributes.lastModifiedTime()}".toString()
+                }
+            }
+        }
+        files
+    }
+
+    private static long metric(BuildResult result, String name) {
+        def matcher = result.output =~ /BENCHMARK .*\b${name}=(\d+)/
+        assert matcher.find(), "no ${name} in build output"
+        matcher.group(1).toLong()
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.sort(false)
+        sorted.isEmpty() ? 0L : sorted[sorted.size().intdiv(2)]
+    }
+
+    static class Measurement {
+        String outcome
+        long wallTimeMs
+        long taskTimeMs
+        int filesWritten
+        long heapPeakMb
+        long heapCommittedMb
+
+        @Override
+        String toString() {
+            "${outcome},${wallTimeMs},${taskTimeMs},${filesWritten},${heapPeakMb},${heapCommittedMb}"
+        }
+    }
+
+    enum Scenario {
+        CLEAN(['clean', 'generateHollowConsumerApi'], TaskOutcome.SUCCESS),
+        /**
+         * The build right after generation runs the task again, as the generated api lands in the source directory
+         * the task takes as input. That cost is measured by {@link #REBUILD_AFTER_GENERATION}.
+         */
+        UP_TO_DATE(['generateHollowConsumerApi'], TaskOutcome.UP_TO_DATE) {
+            @Override
+            void prepare(ApiGeneratorBenchmarkSpec spec, File projectDir) {
+                spec.runBuild(projectDir, ['generateHollowConsumerApi'])
+                spec.runBuild(projectDir, ['generateHollowConsumerApi'])
+            }
+        },
+        REBUILD_AFTER_GENERATION(['generateHollowConsumerApi'], TaskOutcome.SUCCESS) {
+            @Override
+            void beforeIteration(ApiGeneratorBenchmarkSpec spec, SyntheticModel model, File projectDir, int iteration) {
+                spec.runBuild(projectDir, ['clean', 'generateHollowConsumerApi'])
+            }
+        },
+        ONE_FIELD_CHANGE(['generateHollowConsumerApi'], TaskOutcome.SUCCESS) {
+            @Override
+            void prepare(ApiGeneratorBenchmarkSpec spec, File projectDir) {
+                spec.runBuild(projectDir, ['generateHollowConsumerApi'])
+            }
+
+            @Override
+            void beforeIteration(ApiGeneratorBenchmarkSpec spec, SyntheticModel model, File projectDir, int iteration) {
+                model.appendField(projectDir, "benchmarkField${iteration}")
+            }
+        },
+        BUILD_CACHE_HIT(['clean', 'generateHollowConsumerApi', '--build-cache'], TaskOutcome.FROM_CACHE) {
+            @Override
+            void prepare(ApiGeneratorBenchmarkSpec spec, File projectDir) {
+                spec.runBuild(projectDir, ['generateHollowConsumerApi', '--build-cache'])
+            }
+        }
+
+        final List<String> arguments
+        final TaskOutcome expectedOutcome
+
+        Scenario(List<String> arguments, TaskOutcome expectedOutcome) {
+            this.arguments = arguments
+            this.expectedOutcome = expectedOutcome
+        }
+
+        void prepare(ApiGeneratorBenchmarkSpec spec, File projectDir) {
+        }
+
+        void beforeIteration(ApiGeneratorBenchmarkSpec spec, SyntheticModel model, File projectDir, int iteration) {
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.nebula.hollow
+
+/**
+ * Writes a Gradle project with a generated data model of {@code typeCount} classes.
+ *
+ * Types are laid out in chains of {@code nestingDepth}, where every type references the next one in its chain.
+ * The head of each chain optionally carries a {@code @HollowPrimaryKey}, and referencing types optionally
+ * hold list, set and map fields so that collection types are generated as well.
+ */
+class SyntheticModel {
+
+    static final String MODEL_PACKAGE = 'benchmark.model'
+    static final String API_PACKAGE = 'benchmark.api'
+    static final String API_CLASS_NAME = 'BenchmarkAPI'
+    static final int TYPES_PER_PACKAGE = 100
+
+    final int typeCount
+    final int nestingDepth
+    final boolean collections
+    final boolean primaryKeys
+
+    SyntheticModel(int typeCount, int nestingDepth, boolean collections, boolean primaryKeys) {
+        this.typeCount = typeCount
+        this.nestingDepth = Math.max(1, nestingDepth)
+        this.collections = collections
+        this.primaryKeys = primaryKeys
+    }
+
+    void writeTo(File projectDir, String jvmArgs) {
+        projectDir.deleteDir()
+        projectDir.mkdirs()
+
+        new File(projectDir, 'settings.gradle').text = """\
+            pluginManagement {
+                // Set by gradle-profiler scenarios to resolve the plugin from this repository
+                def pluginBuild = settings.providers.gradleProperty('hollowPluginBuild')
+                if (pluginBuild.isPresent()) {
+                    includeBuild(pluginBuild.get())
+                }
+            }
+
+            buildCache {
+                local {
+                    directory = new File(rootDir, 'build-cache')
+                }
+            }
+
+            rootProject.name = 'hollow-benchmark-${typeCount}'
+            """.stripIndent()
+
+        // The marker keeps model sizes from sharing a daemon, so heap figures are not skewed by earlier builds
+        new File(projectDir, 'gradle.properties').text = "org.gradle.jvmargs=${jvmArgs} -Dbenchmark.typeCount=${typeCount}\n"
+
+        new File(projectDir, 'build.gradle').text = """\
+            import org.gradle.build.event.BuildEventsListenerRegistry
+            import org.gradle.tooling.events.FinishEvent
+            import org.gradle.tooling.events.OperationCompletionListener
+            import org.gradle.tooling.events.task.TaskFinishEvent
+
+            import javax.inject.Inject
+            import java.lang.management.ManagementFactory
+            import java.lang.management.MemoryType
+
+            plugins {
+                id 'java'
+                id 'com.netflix.nebula.hollow'
+            }
+
+            repositories {
+                mavenCentral()
+            }
+
+            dependencies {
+                implementation "com.netflix.hollow:hollow:7.+"
+            }
+
+            hollow {
+                packagesToScan = ['${MODEL_PACKAGE}']
+                apiClassName = '${API_CLASS_NAME}'
+                apiPackageName = '${API_PACKAGE}'
+            }
+
+            // Task finish events are also delivered for up-to-date and cached executions, unlike task actions
+            abstract class TaskTimeService implements BuildService<BuildServiceParameters.None>, OperationCompletionListener {
+                @Override
+                void onFinish(FinishEvent event) {
+                    if (event instanceof TaskFinishEvent && event.descriptor.taskPath == ':generateHollowConsumerApi') {
+                        println "BENCHMARK taskTimeMs=\${event.result.endTime - event.result.startTime}"
+                    }
+                }
+            }
+
+            abstract class TaskTimeListenerRegistration {
+                @Inject
+                abstract BuildEventsListenerRegistry getRegistry()
+            }
+
+            objects.newInstance(TaskTimeListenerRegistration).registry.onTaskCompletion(
+                gradle.sharedServices.registerIfAbsent('taskTime', TaskTimeService) {}
+            )
+
+            // Peak heap pool usage since the build script was evaluated, independent of when the last GC ran
+            def heapPools = ManagementFactory.memoryPoolMXBeans.findAll { it.type == MemoryType.HEAP }
+            heapPools*.resetPeakUsage()
+
+            tasks.register('benchmarkMetrics') {
+                outputs.upToDateWhen { false }
+                doLast {
+                    long peak = heapPools.sum { it.peakUsage.used } as long
+                    long committed = heapPools.sum { it.usage.committed } as long
+                    println "BENCHMARK heapPeakMb=\${peak >> 20} heapCommittedMb=\${committed >> 20}"
+                }
+            }
+
+            tasks.named('generateHollowConsumerApi') {
+                finalizedBy 'benchmarkMetrics'
+            }
+            """.stripIndent()
+
+        (0..<typeCount).each { index ->
+            File file = sourceFile(projectDir, index)
+            file.parentFile.mkdirs()
+            file.text = typeSource(index)
+        }
+    }
+
+    /**
+     * Adds a field to the first type of the model, which changes its schema and the generated API.
+     */
+    void appendField(File projectDir, String fieldName) {
+        File file = sourceFile(projectDir, 0)
+        String source = file.text
+        int lastBrace = source.lastIndexOf('}')
+        file.text = source.substring(0, lastBrace) + "    int ${fieldName};\n}\n"
+    }
+
+    File sourceFile(File projectDir, int index) {
+        new File(projectDir, "src/main/java/${packageName(index).replace('.', '/')}/${className(index)}.java")
+    }
+
+    File apiDirectory(File projectDir) {
+        new File(projectDir, "src/main/java/${API_PACKAGE.replace('.', '/')}")
+    }
+
+    private String typeSource(int index) {
+        StringBuilder source = new StringBuilder()
+        source << "package ${packageName(index)};\n\n"
+        if (primaryKeys && index % nestingDepth == 0) {
+            source << '@com.netflix.hollow.core.write.objectmapper.HollowPrimaryKey(fields={"id"})\n'
+        }
+        source << "public class ${className(index)} {\n"
+        source << '    long id;\n'
+        source << '    String name;\n'
+        source << '    int value;\n'
+
+        boolean hasChild = index % nestingDepth < nestingDepth - 1 && index + 1 < typeCount
+        if (hasChild) {
+            String child = qualifiedName(index + 1)
+            source << "    ${child} child;\n"
+            if (collections) {
+                source << "    java.util.List<${child}> children;\n"
+                source << "    java.util.Map<String, ${child}> childrenByName;\n"
+            }
+        }
+        if (collections) {
+            source << '    java.util.Set<String> tags;\n'
+        }
+        source << '}\n'
+        source.toString()
+    }
+
+    private static String className(int index) {
+        "Type${index}"
+    }
+
+    private static String packageName(int index) {
+        "${MODEL_PACKAGE}.p${index.intdiv(TYPES_PER_PACKAGE)}"
+    }
+
+    private static String qualifiedName(int index) {
+        "${packageName(index)}.${className(index)}"
+    }
+}
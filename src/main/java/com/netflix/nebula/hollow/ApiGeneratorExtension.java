@@ -40,6 +40,9 @@ public class ApiGeneratorExtension {
     private final Property<Boolean> restrictApiToFieldType;
     private final Property<Boolean> useVerboseToString;
     private final Property<Boolean> useGeneratedAnnotation;
+    private final Property<Boolean> generateConsumerFactory;
+    private final Property<String> consumerMemoryMode;
+    private final Property<Boolean> useConsumerTypeFilter;
 
     @Inject
     public ApiGeneratorExtension(ObjectFactory objects) {
@@ -59,6 +62,9 @@ public class ApiGeneratorExtension {
         this.restrictApiToFieldType = objects.property(Boolean.class).convention(true);
         this.useVerboseToString = objects.property(Boolean.class).convention(true);
         this.useGeneratedAnnotation = objects.property(Boolean.class).convention(false);
+        this.generateConsumerFactory = objects.property(Boolean.class).convention(false);
+        this.consumerMemoryMode = objects.property(String.class).convention("ON_HEAP");
+        this.useConsumerTypeFilter = objects.property(Boolean.class).convention(false);
     }
 
     public ListProperty<String> getPackagesToScan() {
@@ -188,4 +194,28 @@ public class ApiGeneratorExtension {
     public void setUseGeneratedAnnotation(boolean value) {
         useGeneratedAnnotation.set(value);
     }
+
+    public Property<Boolean> getGenerateConsumerFactory() {
+        return generateConsumerFactory;
+    }
+
+    public void setGenerateConsumerFactory(boolean value) {
+        generateConsumerFactory.set(value);
+    }
+
+    public Property<String> getConsumerMemoryMode() {
+        return consumerMemoryMode;
+    }
+
+    public void setConsumerMemoryMode(String value) {
+        consumerMemoryMode.set(value);
+    }
+
+    public Property<Boolean> getUseConsumerTypeFilter() {
+        return useConsumerTypeFilter;
+    }
+
+    public void setUseConsumerTypeFilter(boolean value) {
+        useConsumerTypeFilter.set(value);
+    }
 }
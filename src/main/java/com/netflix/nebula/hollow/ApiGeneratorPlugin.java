@@ -88,6 +88,9 @@ public class ApiGeneratorPlugin implements Plugin<Project> {
                 task.getRestrictApiToFieldType().set(extension.getRestrictApiToFieldType());
                 task.getUseVerboseToString().set(extension.getUseVerboseToString());
                 task.getUseGeneratedAnnotation().set(extension.getUseGeneratedAnnotation());
+                task.getGenerateConsumerFactory().set(extension.getGenerateConsumerFactory());
+                task.getConsumerMemoryMode().set(extension.getConsumerMemoryMode());
+                task.getUseConsumerTypeFilter().set(extension.getUseConsumerTypeFilter());
 
                 // Set source directory to main java source directory
                 task.getSourceDirectory().set(
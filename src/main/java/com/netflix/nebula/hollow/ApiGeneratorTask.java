@@ -16,6 +16,8 @@
 package com.netflix.nebula.hollow;
 
 import com.netflix.hollow.api.codegen.HollowAPIGenerator;
+import com.netflix.hollow.core.memory.MemoryMode;
+import com.netflix.hollow.core.schema.HollowSchema;
 import com.netflix.hollow.core.write.HollowWriteStateEngine;
 import com.netflix.hollow.core.write.objectmapper.HollowObjectMapper;
 import org.gradle.api.DefaultTask;
@@ -55,6 +57,9 @@ public class ApiGeneratorTask extends DefaultTask {
     private final Property<Boolean> restrictApiToFieldType;
     private final Property<Boolean> useVerboseToString;
     private final Property<Boolean> useGeneratedAnnotation;
+    private final Property<Boolean> generateConsumerFactory;
+    private final Property<String> consumerMemoryMode;
+    private final Property<Boolean> useConsumerTypeFilter;
     private final DirectoryProperty sourceDirectory;
     private final ConfigurableFileCollection classpath;
     private final DirectoryProperty outputDirectory;
@@ -79,6 +84,9 @@ public class ApiGeneratorTask extends DefaultTask {
         this.restrictApiToFieldType = objects.property(Boolean.class);
         this.useVerboseToString = objects.property(Boolean.class);
         this.useGeneratedAnnotation = objects.property(Boolean.class);
+        this.generateConsumerFactory = objects.property(Boolean.class);
+        this.consumerMemoryMode = objects.property(String.class);
+        this.useConsumerTypeFilter = objects.property(Boolean.class);
         this.sourceDirectory = objects.directoryProperty();
         this.classpath = objects.fileCollection();
         this.outputDirectory = objects.directoryProperty();
@@ -170,6 +178,21 @@ public class ApiGeneratorTask extends DefaultTask {
         return useGeneratedAnnotation;
     }
 
+    @Input
+    public Property<Boolean> getGenerateConsumerFactory() {
+        return generateConsumerFactory;
+    }
+
+    @Input
+    public Property<String> getConsumerMemoryMode() {
+        return consumerMemoryMode;
+    }
+
+    @Input
+    public Property<Boolean> getUseConsumerTypeFilter() {
+        return useConsumerTypeFilter;
+    }
+
     @Optional
     @InputDirectory
     @PathSensitive(PathSensitivity.RELATIVE)
@@ -196,6 +219,9 @@ public class ApiGeneratorTask extends DefaultTask {
             );
         }
 
+        // Validated up front so that a misconfigured consumer factory does not leave a half generated api behind
+        MemoryMode consumerMemoryModeToGenerate = generateConsumerFactory.get() ? validateConsumerFactoryConfiguration() : null;
+
         initClassLoader();
 
         HollowWriteStateEngine writeEngine = new HollowWriteStateEngine();
@@ -215,6 +241,33 @@ public class ApiGeneratorTask extends DefaultTask {
 
         cleanupAndCreateFolders(apiTargetPath);
         generator.generateSourceFiles();
+
+        if (consumerMemoryModeToGenerate != null) {
+            List<String> typeNames = new ArrayList<>();
+            for (HollowSchema schema : writeEngine.getSchemas()) {
+                typeNames.add(schema.getName());
+            }
+            new ConsumerFactoryGenerator(apiClassName.get(), apiPackageName.get(), consumerMemoryModeToGenerate, useConsumerTypeFilter.get(),
+                useGeneratedAnnotation.get(), typeNames)
+                .generateSourceFile(apiTargetPath);
+        }
+    }
+
+    private MemoryMode validateConsumerFactoryConfiguration() {
+        MemoryMode memoryMode;
+        try {
+            memoryMode = MemoryMode.valueOf(consumerMemoryMode.get());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidUserDataException(
+                "consumerMemoryMode must be one of " + Arrays.toString(MemoryMode.values()) + " but was " + consumerMemoryMode.get(), e
+            );
+        }
+        if (useConsumerTypeFilter.get() && !memoryMode.supportsFiltering()) {
+            throw new InvalidUserDataException(
+                "useConsumerTypeFilter is not supported with consumerMemoryMode " + memoryMode + ", which does not support type filtering"
+            );
+        }
+        return memoryMode;
     }
 
     private HollowAPIGenerator buildHollowAPIGenerator(HollowWriteStateEngine writeStateEngine, String apiTargetPath) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.nebula.hollow;
+
+import com.netflix.hollow.core.memory.MemoryMode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * Generates {@code <apiClassName>ConsumerFactory}, which builds a {@code HollowConsumer} for the generated api
+ * reading blobs from the local filesystem. With {@link MemoryMode#SHARED_MEMORY_LAZY} the blob files are memory mapped
+ * instead of being copied onto the heap.
+ */
+class ConsumerFactoryGenerator {
+
+    private final String apiClassName;
+    private final String apiPackageName;
+    private final MemoryMode memoryMode;
+    private final boolean useTypeFilter;
+    private final boolean useGeneratedAnnotation;
+    private final Collection<String> typeNames;
+
+    ConsumerFactoryGenerator(String apiClassName, String apiPackageName, MemoryMode memoryMode,
+                             boolean useTypeFilter, boolean useGeneratedAnnotation, Collection<String> typeNames) {
+        this.apiClassName = apiClassName;
+        this.apiPackageName = apiPackageName;
+        this.memoryMode = memoryMode;
+        this.useTypeFilter = useTypeFilter;
+        this.useGeneratedAnnotation = useGeneratedAnnotation;
+        // sorted so that the generated source is stable between builds
+        this.typeNames = new TreeSet<>(typeNames);
+    }
+
+    String getClassName() {
+        return apiClassName + "ConsumerFactory";
+    }
+
+    void generateSourceFile(String apiTargetPath) throws IOException {
+        File file = new File(apiTargetPath, getClassName() + ".java");
+        Files.write(file.toPath(), generate().getBytes(StandardCharsets.UTF_8));
+    }
+
+    String generate() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("package ").append(apiPackageName).append(";\n\n");
+        if (useGeneratedAnnotation) {
+            builder.append("import com.netflix.hollow.HollowGenerated;\n");
+        }
+        builder.append("import com.netflix.hollow.api.consumer.HollowConsumer;\n");
+        builder.append("import com.netflix.hollow.api.consumer.fs.HollowFilesystemBlobRetriever;\n");
+        builder.append("import com.netflix.hollow.core.memory.MemoryMode;\n");
+        builder.append("import com.netflix.hollow.core.read.filter.TypeFilter;\n\n");
+        builder.append("import java.nio.file.Path;\n\n");
+
+        builder.append("/**\n");
+        builder.append(" * Builds {@link HollowConsumer}s of {@link ").append(apiClassName).append("} reading blobs from a local directory.\n");
+        builder.append(" */\n");
+        if (useGeneratedAnnotation) {
+            builder.append("@HollowGenerated\n");
+        }
+        builder.append("public final class ").append(getClassName()).append(" {\n\n");
+
+        builder.append("    public static final MemoryMode MEMORY_MODE = MemoryMode.").append(memoryMode.name()).append(";\n\n");
+
+        builder.append("    private ").append(getClassName()).append("() {\n");
+        builder.append("    }\n\n");
+
+        builder.append("    /**\n");
+        builder.append("     * Type filter including only the types of the data model the api was generated from.\n");
+        builder.append("     */\n");
+        builder.append("    public static TypeFilter typeFilter() {\n");
+        builder.append("        return TypeFilter.newTypeFilter()\n");
+        builder.append("            .excludeAll()\n");
+        for (String typeName : typeNames) {
+            builder.append("            .include(\"").append(typeName).append("\")\n");
+        }
+        builder.append("            .build();\n");
+        builder.append("    }\n\n");
+
+        builder.append("    /**\n");
+        builder.append("     * Consumer builder for blobs in {@code blobStorePath}, to be completed with an announcement watcher\n");
+        builder.append("     * or further configuration before building.\n");
+        builder.append("     */\n");
+        builder.append("    public static HollowConsumer.Builder<?> newConsumerBuilder(Path blobStorePath, HollowConsumer.RefreshListener... refreshListeners) {\n");
+        builder.append("        HollowConsumer.Builder<?> builder = HollowConsumer.newHollowConsumer()\n");
+        builder.append("            .withBlobRetriever(new HollowFilesystemBlobRetriever(blobStorePath))\n");
+        builder.append("            .withMemoryMode(MEMORY_MODE)\n");
+        if (useTypeFilter) {
+            builder.append("            .withTypeFilter(typeFilter())\n");
+        }
+        builder.append("            .withGeneratedAPIClass(").append(apiClassName).append(".class);\n");
+        builder.append("        for (HollowConsumer.RefreshListener refreshListener : refreshListeners) {\n");
+        builder.append("            builder.withRefreshListener(refreshListener);\n");
+        builder.append("        }\n");
+        builder.append("        return builder;\n");
+        builder.append("    }\n\n");
+
+        builder.append("    public static HollowConsumer newConsumer(Path blobStorePath, HollowConsumer.RefreshListener... refreshListeners) {\n");
+        builder.append("        return newConsumerBuilder(blobStorePath, refreshListeners).build();\n");
+        builder.append("    }\n\n");
+
+        builder.append("    public static ").append(apiClassName).append(" api(HollowConsumer consumer) {\n");
+        builder.append("        return (").append(apiClassName).append(") consumer.getAPI();\n");
+        builder.append("    }\n");
+        builder.append("}\n");
+        return builder.toString();
+    }
+}
@@ -329,6 +329,230 @@ public class Movie {
         }
     }
 
+    def 'execution of generator - with consumer factory loading a snapshot in #memoryMode'() {
+        given:
+        String destinationSrcFolder = '/src/main/java/com/netflix/nebula/hollow/test/consumerfactory/api'
+        buildFile << """
+            plugins {
+                id 'java'
+                id 'com.netflix.nebula.hollow'
+            }
+
+            hollow {
+                packagesToScan = ['com.netflix.nebula.hollow.test.consumerfactory']
+                apiClassName = 'MovieAPI'
+                apiPackageName = 'com.netflix.nebula.hollow.test.consumerfactory.api'
+                useGeneratedAnnotation = true
+                generateConsumerFactory = true
+                consumerMemoryMode = '${memoryMode}'
+                useConsumerTypeFilter = ${useTypeFilter}
+            }
+
+            repositories {
+               mavenCentral()
+            }
+
+            dependencies {
+                implementation "com.netflix.hollow:hollow:7.+"
+            }
+
+            tasks.register('loadSnapshot', JavaExec) {
+                classpath = sourceSets.main.runtimeClasspath
+                mainClass = 'com.netflix.nebula.hollow.test.consumerapp.LoadSnapshot'
+                args layout.buildDirectory.dir('blobs').get().asFile.absolutePath
+            }
+        """.stripIndent()
+
+        def moviefile = createFile('src/main/java/com/netflix/nebula/hollow/test/consumerfactory/Movie.java')
+        moviefile << """package com.netflix.nebula.hollow.test.consumerfactory;
+
+import com.netflix.hollow.core.write.objectmapper.HollowPrimaryKey;
+
+@HollowPrimaryKey(fields={"id"})
+public class Movie {
+    long id;
+    String title;
+
+    public Movie(long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+}
+        """.stripIndent()
+
+        def loadSnapshotFile = createFile('src/main/java/com/netflix/nebula/hollow/test/consumerapp/LoadSnapshot.java')
+        loadSnapshotFile << """package com.netflix.nebula.hollow.test.consumerapp;
+
+import com.netflix.hollow.api.consumer.HollowConsumer;
+import com.netflix.hollow.api.producer.HollowProducer;
+import com.netflix.hollow.api.producer.fs.HollowFilesystemPublisher;
+import com.netflix.nebula.hollow.test.consumerfactory.api.MovieAPIConsumerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class LoadSnapshot {
+    public static void main(String[] args) throws Exception {
+        Path blobStore = Files.createDirectories(Paths.get(args[0]));
+
+        HollowProducer producer = HollowProducer.withPublisher(new HollowFilesystemPublisher(blobStore)).build();
+        producer.initializeDataModel(com.netflix.nebula.hollow.test.consumerfactory.Movie.class);
+        long version = producer.runCycle(state -> state.add(new com.netflix.nebula.hollow.test.consumerfactory.Movie(1L, "Movie")));
+
+        HollowConsumer consumer = MovieAPIConsumerFactory.newConsumer(blobStore);
+        consumer.triggerRefreshTo(version);
+        System.out.println("Loaded " + MovieAPIConsumerFactory.api(consumer).getAllMovie().size() + " movies in " + MovieAPIConsumerFactory.MEMORY_MODE);
+    }
+}
+        """.stripIndent()
+
+        when:
+        def result = runTasks('loadSnapshot')
+
+        then:
+        result.task(':generateHollowConsumerApi').outcome == TaskOutcome.SUCCESS
+        result.output.contains("Loaded 1 movies in ${memoryMode}")
+
+        and:
+        File file = getFile(destinationSrcFolder, '/MovieAPIConsumerFactory.java')
+        file.text.contains('@HollowGenerated')
+        file.text.contains('.include("Movie")')
+        file.text.contains('.withTypeFilter(typeFilter())') == useTypeFilter
+
+        where:
+        memoryMode           | useTypeFilter
+        'ON_HEAP'            | true
+        'SHARED_MEMORY_LAZY' | false
+    }
+
+    def 'execution of generator - no consumer factory by default'() {
+        given:
+        String destinationSrcFolder = '/src/main/java/com/netflix/nebula/hollow/test/api'
+        buildFile << """
+            plugins {
+                id 'java'
+                id 'com.netflix.nebula.hollow'
+            }
+
+            hollow {
+                packagesToScan = ['com.netflix.nebula.hollow.test']
+                apiClassName = 'MovieAPI'
+                apiPackageName = 'com.netflix.nebula.hollow.test.api'
+            }
+
+            repositories {
+               mavenCentral()
+            }
+
+            dependencies {
+                implementation "com.netflix.hollow:hollow:7.+"
+            }
+        """.stripIndent()
+
+        def moviefile = createFile('src/main/java/com/netflix/nebula/hollow/test/Movie.java')
+        moviefile << """package com.netflix.nebula.hollow.test;
+
+public class Movie {
+    long id;
+
+    public Movie(long id) {
+        this.id = id;
+    }
+}
+        """.stripIndent()
+
+        when:
+        def result = runTasks('generateHollowConsumerApi')
+
+        then:
+        result.task(':generateHollowConsumerApi').outcome == TaskOutcome.SUCCESS
+        getFile(destinationSrcFolder, '/MovieAPI.java').exists()
+
+        and:
+        !new File(projectDir, destinationSrcFolder).listFiles().any { it.name.endsWith('ConsumerFactory.java') }
+    }
+
+    def 'execution of generator - fails on unknown consumer memory mode'() {
+        given:
+        buildFile << """
+            plugins {
+                id 'java'
+                id 'com.netflix.nebula.hollow'
+            }
+
+            hollow {
+                packagesToScan = ['com.netflix.nebula.hollow.test']
+                apiClassName = 'MovieAPI'
+                apiPackageName = 'com.netflix.nebula.hollow.test.api'
+                generateConsumerFactory = true
+                consumerMemoryMode = 'OFF_HEAP'
+            }
+
+            repositories {
+               mavenCentral()
+            }
+
+            dependencies {
+                implementation "com.netflix.hollow:hollow:7.+"
+            }
+        """.stripIndent()
+
+        def dummyFile = createFile('src/main/java/com/netflix/nebula/hollow/test/Dummy.java')
+        dummyFile << """package com.netflix.nebula.hollow.test;
+
+public class Dummy {
+}
+        """.stripIndent()
+
+        when:
+        def result = runTasksAndFail('generateHollowConsumerApi')
+
+        then:
+        result.output.contains('consumerMemoryMode must be one of')
+        result.output.contains('but was OFF_HEAP')
+    }
+
+    def 'execution of generator - fails on consumer type filter in shared memory mode'() {
+        given:
+        buildFile << """
+            plugins {
+                id 'java'
+                id 'com.netflix.nebula.hollow'
+            }
+
+            hollow {
+                packagesToScan = ['com.netflix.nebula.hollow.test']
+                apiClassName = 'MovieAPI'
+                apiPackageName = 'com.netflix.nebula.hollow.test.api'
+                generateConsumerFactory = true
+                consumerMemoryMode = 'SHARED_MEMORY_LAZY'
+                useConsumerTypeFilter = true
+            }
+
+            repositories {
+               mavenCentral()
+            }
+
+            dependencies {
+                implementation "com.netflix.hollow:hollow:7.+"
+            }
+        """.stripIndent()
+
+        def dummyFile = createFile('src/main/java/com/netflix/nebula/hollow/test/Dummy.java')
+        dummyFile << """package com.netflix.nebula.hollow.test;
+
+public class Dummy {
+}
+        """.stripIndent()
+
+        when:
+        def result = runTasksAndFail('generateHollowConsumerApi')
+
+        then:
+        result.output.contains('useConsumerTypeFilter is not supported with consumerMemoryMode SHARED_MEMORY_LAZY')
+    }
+
     def 'generateHollowConsumerApi task is not present if java plugin is not present'() {
         given:
         buildFile << """